@@ -0,0 +1,158 @@
+package optimizer;
+
+import optimizer.functions.ObjectiveFunction;
+import java.io.*;
+import java.util.Scanner;
+
+// Reduced-precision solve mode (-Dprecision=float32): x, velocity and gradient are stored as float[],
+// while reductions (the gradient norm and the functions' sums) accumulate in double.
+// Output has the same layout as the float64 loops in GradientDescentOptimizer.
+public class Float32Optimizer {
+
+    // Performs one steepest descent update in place and returns the norm of the gradient it used.
+    // The norm and the update share one pass over the gradient.
+    public static double steepestDescentStep(ObjectiveFunction objectiveFunction, float[] changingVariables, double stepSize) {
+        float[] gradient = objectiveFunction.computeGradient(changingVariables);
+        float step = (float) stepSize;
+        double sum = 0;
+
+        for (int i = 0; i < changingVariables.length; i++) {
+            float g = gradient[i];
+            sum += (double) g * g;
+            changingVariables[i] = floorTo5Decimals(changingVariables[i] - step * g);
+        }
+        return GradientDescentOptimizer.floorTo5Decimals(Math.sqrt(sum));
+    }
+
+    // Performs one momentum update in place (velocity included) and returns the norm of the gradient it used
+    public static double momentumDescentStep(ObjectiveFunction objectiveFunction, float[] changingVariables, float[] velocity, double stepSize, double beta) {
+        float[] gradient = objectiveFunction.computeGradient(changingVariables);
+        float step = (float) stepSize;
+        float b = (float) beta;
+        float oneMinusB = (float) (1 - beta);
+        double sum = 0;
+
+        for (int i = 0; i < changingVariables.length; i++){
+            float g = gradient[i];
+            sum += (double) g * g;
+            velocity[i] = b * velocity[i] + oneMinusB * g;
+            changingVariables[i] = floorTo5Decimals(changingVariables[i] - step * velocity[i]);
+        }
+        return GradientDescentOptimizer.floorTo5Decimals(Math.sqrt(sum));
+    }
+
+    // Float version of GradientDescentOptimizer.floorTo5Decimals, done in float arithmetic: floors onto the
+    // 5-decimal grid and stores the nearest float to that grid value. Floats are only ~7 digits, so near
+    // |x| = 5 the grid itself is approximate and a value may floor one grid step differently than in double.
+    public static float floorTo5Decimals(float value) {
+        float scaled = value * 1e5f;
+        if (!(Math.abs(scaled) < 8388608f)) {
+            if (Float.isNaN(value) || Float.isInfinite(value)) {
+                return value;
+            }
+            // past 2^23 grid steps (|x| of about 84) the float product can no longer be floored exactly,
+            // so floor in double and keep the nearest float
+            return (float) GradientDescentOptimizer.floorTo5Decimals(value);
+        }
+        int floored = (int) scaled;
+        if (floored > scaled) {
+            floored--;
+        }
+        return floored / 1e5f;
+    }
+
+    public static String xValuesToString(float[] array) {
+        StringBuilder stringbuilder = new StringBuilder();
+        for (float value : array) {
+            stringbuilder.append(String.format("%.5f ", value));
+        }
+        return stringbuilder.toString().trim();
+    }
+
+    // Runs steepest or momentum descent, writing to the console (manualOutput == 1) or to a file path read from the scanner
+    public static void optimize(ObjectiveFunction objectiveFunction, String algorithmChoice, double[] variables, int iterations, double tolerance,
+                                double stepSize, double beta, int dimensionality, int manualOutput, Scanner scanner) {
+        boolean momentum = algorithmChoice.equals("momentum");
+        float[] changingVariables = new float[dimensionality];
+        for (int i = 0; i < dimensionality; i++) {
+            changingVariables[i] = (float) variables[i];
+        }
+        float[] velocity = new float[dimensionality];
+
+        Writer writer = null;
+        try {
+            if (manualOutput == 1) {
+                writer = new PrintWriter(System.out);
+            } else {
+                System.out.println("Please provide the path for the output file:");
+                String filepath = scanner.nextLine();
+                writer = new BufferedWriter(new FileWriter(filepath));
+            }
+
+            writer.write(String.format("Objective Function: %s\n", objectiveFunction.getName()));
+            if (momentum && manualOutput == 1) {
+                writer.write("Algorithm: Momentum Descent (beta=" + beta + ")\n");  // same as the float64 console header
+            } else if (momentum) {
+                writer.write(String.format("Algorithm: Momentum Descent (beta=%f)\n", beta));
+            } else {
+                writer.write("Algorithm: Steepest Descent\n");
+            }
+            writer.write("Precision: float32\n");
+            writer.write(String.format("Dimensionality: %d\n", dimensionality));
+            writer.write("Initial Point: ");
+            for (double variable : variables) {
+                writer.write(variable + " ");
+            }
+            writer.write("\n");
+            writer.write(String.format("Iterations: %d\nTolerance: %.5f\nStep Size: %.5f\n\n", iterations, tolerance, stepSize));
+            writer.write("Optimization process:\n");
+            writer.write("Iteration 1:\n");
+            writer.write(String.format("Objective Function Value: %.5f\n", objectiveFunction.compute(changingVariables)));
+            writer.write(String.format("x-values: %s\n\n", xValuesToString(changingVariables)));
+
+            int iteration = 1;
+            for (; iteration < iterations; iteration++) {
+                double norm;
+                if (momentum) {
+                    norm = momentumDescentStep(objectiveFunction, changingVariables, velocity, stepSize, beta);
+                } else {
+                    norm = steepestDescentStep(objectiveFunction, changingVariables, stepSize);
+                }
+
+                double objectiveValue = GradientDescentOptimizer.floorTo5Decimals(objectiveFunction.compute(changingVariables));
+                GradientDescentOptimizer.publishIteration(iteration + 1, objectiveValue, norm, changingVariables, norm < tolerance);
+
+                writer.write(String.format("Iteration %d:\n", iteration + 1));
+                writer.write(String.format("Objective Function Value: %.5f\n", objectiveValue));
+                writer.write(String.format("x-values: %s\n", xValuesToString(changingVariables)));
+                writer.write(String.format("Current Tolerance: %.5f\n\n", norm));
+
+                if (norm < tolerance) {
+                    writer.write(String.format("Convergence reached after %d iterations.\n\n", iteration + 1));
+                    break;
+                }
+            }
+
+            if (iteration == iterations){
+                writer.write("Maximum iterations reached without satisfying the tolerance.\n\n");
+            }
+            writer.write("Optimization process completed.");
+            if (manualOutput == 1) {
+                writer.write("\n");
+            }
+            writer.flush();
+
+        } catch (IOException e) {
+            return;
+        } finally {
+            // leave System.out open
+            if (writer != null && manualOutput != 1) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+    }
+}
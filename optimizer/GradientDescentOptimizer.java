@@ -25,6 +25,10 @@ public class GradientDescentOptimizer {
     static int manualInput = -1;
     static int manualOutput = -1;
 
+    // Live trajectory output, enabled with -Dtrajectory.file (see TrajectoryPublisher)
+    static TrajectoryPublisher trajectoryPublisher = null;
+    static String trajectoryStatus = "max_iterations";
+
     // Displays a menu prompt to enter the program or exit
     public static void menuPrompt(Scanner scanner){                
         if (getValidatedInput(scanner, "Press 0 to exit or 1 to enter the program:", Integer.class) == 1){ 
@@ -45,27 +49,91 @@ public class GradientDescentOptimizer {
             getFileInput(scanner);
         }
 
-        ObjectiveFunction objectiveFunction = null;
-        if(objectiveFunctionChoice.equals("quadratic")){
-            objectiveFunction = new QuadraticFunction();
-        } else if (objectiveFunctionChoice.equals("rosenbrock")){
-            objectiveFunction = new RosenbrockFunction();
-        } else if (objectiveFunctionChoice.equals("ackley")){
-            objectiveFunction = new AckleyFunction();
-        } else if (objectiveFunctionChoice.equals("rastrigin")) {
-            objectiveFunction = new RastriginFunction();
-        }
+        ObjectiveFunction objectiveFunction = createObjectiveFunction(objectiveFunctionChoice);
 
         if (objectiveFunction == null) { 
             System.out.println("No recognized objective function. Exiting...");
             return; 
         }
 
-        if (algorithmChoice.equals("steepest")) {
-            optimizeSteepestDescent(objectiveFunction, variables, iterations, tolerance, stepSize, dimensionality, scanner);
-        } else if (algorithmChoice.equals("momentum")) {
-            optimizeMomentumDescent(objectiveFunction, variables, iterations, tolerance, stepSize, momentumBeta, dimensionality, scanner);
+        trajectoryPublisher = TrajectoryPublisher.fromSystemProperties(objectiveFunction.getName(),
+            algorithmChoice.equals("momentum") ? "Momentum Descent" : "Steepest Descent", dimensionality);
+        trajectoryStatus = "max_iterations";
+        publishIteration(1, objectiveFunction.compute(variables), Double.NaN, variables, false);
+
+        try {
+            if (System.getProperty("precision", "float64").equals("float32")) {
+                Float32Optimizer.optimize(objectiveFunction, algorithmChoice, variables, iterations, tolerance, stepSize, momentumBeta, dimensionality, manualOutput, scanner);
+            } else if (algorithmChoice.equals("steepest")) {
+                optimizeSteepestDescent(objectiveFunction, variables, iterations, tolerance, stepSize, dimensionality, scanner);
+            } else if (algorithmChoice.equals("momentum")) {
+                optimizeMomentumDescent(objectiveFunction, variables, iterations, tolerance, stepSize, momentumBeta, dimensionality, scanner);
+            }
+        } finally {
+            if (trajectoryPublisher != null) {
+                trajectoryPublisher.close(trajectoryStatus);
+                trajectoryPublisher = null;
+            }
+        }
+    }
+
+    // Hands an iteration snapshot to the live trajectory publisher, if one is open; converged and final iterations are never decimated
+    static void publishIteration(int iteration, double objectiveValue, double norm, double[] changingVariables, boolean converged) {
+        if (trajectoryPublisher == null) {
+            return;
+        }
+        if (converged) {
+            trajectoryStatus = "converged";
+        }
+        trajectoryPublisher.publish(iteration, objectiveValue, norm, changingVariables, converged || iteration == iterations);
+    }
+
+    // float32 variant of publishIteration, used by Float32Optimizer; widens only the snapshots the publisher keeps
+    static void publishIteration(int iteration, double objectiveValue, double norm, float[] changingVariables, boolean converged) {
+        if (trajectoryPublisher != null && trajectoryPublisher.accepts(iteration, converged || iteration == iterations)) {
+            publishIteration(iteration, objectiveValue, norm, ObjectiveFunction.toDouble(changingVariables), converged);
+        }
+    }
+
+    // Maps a config name (quadratic, rosenbrock, ackley, rastrigin) to its objective function, or null if unknown
+    public static ObjectiveFunction createObjectiveFunction(String name) {
+        if (name == null) {
+            return null;
+        }
+        if (name.equals("quadratic")){
+            return new QuadraticFunction();
+        } else if (name.equals("rosenbrock")){
+            return new RosenbrockFunction();
+        } else if (name.equals("ackley")){
+            return new AckleyFunction();
+        } else if (name.equals("rastrigin")) {
+            return new RastriginFunction();
+        }
+        return null;
+    }
+
+    // Performs one steepest descent update in place and returns the norm of the gradient it used
+    public static double steepestDescentStep(ObjectiveFunction objectiveFunction, double[] changingVariables, double stepSize) {
+        double[] gradient = objectiveFunction.computeGradient(changingVariables);
+        double norm = computeNorm(gradient);
+
+        for (int i = 0; i < changingVariables.length; i++) {
+            changingVariables[i] = floorTo5Decimals(changingVariables[i] - (stepSize * gradient[i]));
+        }
+        return norm;
+    }
+
+    // Performs one momentum update in place (velocity included) and returns the norm of the gradient it used
+    public static double momentumDescentStep(ObjectiveFunction objectiveFunction, double[] changingVariables, double[] velocity, double stepSize, double beta) {
+        double[] gradient = objectiveFunction.computeGradient(changingVariables);
+        double norm = computeNorm(gradient);
+
+        // momentum update: velocity = beta * velocity + (1 - beta)*gradient
+        for (int i = 0; i < changingVariables.length; i++){
+            velocity[i] = beta * velocity[i] + (1 - beta) * gradient[i];
+            changingVariables[i] = floorTo5Decimals(changingVariables[i] - (stepSize * velocity[i]));
         }
+        return norm;
     }
 
     // Steepest Descent optimization method
@@ -109,16 +177,10 @@ public class GradientDescentOptimizer {
             System.out.println(String.format("x-values: %s\n", xValuesToString(changingVariables)));
 
             while (iteration < iterations) {
-                double[] gradient = objectiveFunction.computeGradient(changingVariables);
-                double norm = computeNorm(gradient);
-
-                // momentum update: velocity = beta * velocity + (1 - beta)*gradient
-                for (int i = 0; i < dimensionality; i++){
-                    velocity[i] = beta * velocity[i] + (1 - beta) * gradient[i];
-                    changingVariables[i] = floorTo5Decimals(changingVariables[i] - (stepSize * velocity[i]));
-                }
+                double norm = momentumDescentStep(objectiveFunction, changingVariables, velocity, stepSize, beta);
 
                 double objectiveValue = floorTo5Decimals(objectiveFunction.compute(changingVariables));
+                publishIteration(iteration + 1, objectiveValue, norm, changingVariables, norm < tolerance);
 
                 System.out.println(String.format("Iteration %d:", iteration + 1));
                 System.out.println(String.format("Objective Function Value: %.5f", objectiveValue));
@@ -162,16 +224,10 @@ public class GradientDescentOptimizer {
                 writer.write(String.format("x-values: %s\n\n", xValuesToString(changingVariables)));
 
                 while (iteration < iterations) {
-                    double[] gradient = objectiveFunction.computeGradient(changingVariables);
-                    double norm = computeNorm(gradient);
-
-                    // momentum update
-                    for (int i = 0; i < dimensionality; i++){
-                        velocity[i] = beta * velocity[i] + (1 - beta) * gradient[i];
-                        changingVariables[i] = floorTo5Decimals(changingVariables[i] - (stepSize * velocity[i]));
-                    }
+                    double norm = momentumDescentStep(objectiveFunction, changingVariables, velocity, stepSize, beta);
 
                     double objectiveValue = floorTo5Decimals(objectiveFunction.compute(changingVariables));
+                    publishIteration(iteration + 1, objectiveValue, norm, changingVariables, norm < tolerance);
 
                     writer.write(String.format("Iteration %d:\n", iteration + 1));
                     writer.write(String.format("Objective Function Value: %.5f\n", objectiveValue));
@@ -225,14 +281,10 @@ public class GradientDescentOptimizer {
         System.out.println(String.format("x-values: %s\n", xValuesToString(changingVariables)));
 
         for (; iteration < iterations; iteration++) {
-            double[] gradient = objectiveFunction.computeGradient(changingVariables);
-            double norm = computeNorm(gradient);
-
-            for (int i = 0; i < changingVariables.length; i++) {
-                changingVariables[i] = floorTo5Decimals(changingVariables[i] - (stepSize * gradient[i]));
-            }
+            double norm = steepestDescentStep(objectiveFunction, changingVariables, stepSize);
 
             double objectiveValue = floorTo5Decimals(objectiveFunction.compute(changingVariables));
+            publishIteration(iteration + 1, objectiveValue, norm, changingVariables, norm < tolerance);
 
             System.out.println(String.format("Iteration %d:", iteration + 1));
             System.out.println(String.format("Objective Function Value: %.5f", objectiveValue));
@@ -276,14 +328,10 @@ public class GradientDescentOptimizer {
             writer.write(String.format("x-values: %s\n\n", xValuesToString(changingVariables)));
 
             for (; iteration < iterations; iteration++) {
-                double[] gradient = objectiveFunction.computeGradient(changingVariables);
-                double norm = computeNorm(gradient);
-
-                for (int i = 0; i < changingVariables.length; i++) {
-                    changingVariables[i] = floorTo5Decimals(changingVariables[i] - (stepSize * gradient[i]));
-                }
+                double norm = steepestDescentStep(objectiveFunction, changingVariables, stepSize);
 
                 double objectiveValue = floorTo5Decimals(objectiveFunction.compute(changingVariables));
+                publishIteration(iteration + 1, objectiveValue, norm, changingVariables, norm < tolerance);
 
                 writer.write(String.format("Iteration %d:\n", iteration + 1));
                 writer.write(String.format("Objective Function Value: %.5f\n", objectiveValue));
@@ -315,7 +363,17 @@ public class GradientDescentOptimizer {
     }
 
     // Utility method to round a double value to 5 decimals using FLOOR
-    private static double floorTo5Decimals(double value) {
+    public static double floorTo5Decimals(double value) {
+        // Fast path: unless value * 1e5 lies within rounding error of an integer, Math.floor agrees with the
+        // exact BigDecimal floor, and dividing by 1e5 rounds the same way doubleValue() does
+        double scaled = value * 1e5;
+        if (Math.abs(scaled) < 1e15) {
+            double floored = Math.floor(scaled);
+            double ulp = Math.ulp(scaled);
+            if (scaled - floored > ulp && floored + 1 - scaled > ulp) {
+                return floored / 1e5;
+            }
+        }
         return new BigDecimal(value).setScale(5, RoundingMode.FLOOR).doubleValue();
     }
 
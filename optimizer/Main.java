@@ -1,9 +1,16 @@
 package optimizer;
 
+import optimizer.service.SolverService;
+import java.util.Arrays;
 import java.util.Scanner;
 
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        // "serve [port] [maxConcurrent] [queueCapacity] [timeoutMillis]" starts the long-lived local solver service
+        if (args.length > 0 && args[0].equals("serve")) {
+            SolverService.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         Scanner scanner = new Scanner(System.in); 
         GradientDescentOptimizer.menuPrompt(scanner); 
         scanner.close();
@@ -0,0 +1,116 @@
+package optimizer;
+
+import optimizer.functions.*;
+import java.util.Arrays;
+import java.util.Random;
+
+// Compares the float32 solve mode against the float64 path for each built-in function.
+// Reports the speedup of the full steepest descent loop and of the function kernels alone
+// (compute + computeGradient), plus how far the final objective value drifts from float64.
+// Usage: PrecisionComparison [dimensionality] [iterations] [repeats]
+public class PrecisionComparison {
+    public static void main(String[] args) {
+        int dimensionality = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int repeats = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        ObjectiveFunction[] functions = {
+            new QuadraticFunction(), new RosenbrockFunction(), new AckleyFunction(), new RastriginFunction()
+        };
+        // Small enough that every function stays bounded. Quadratic avoids "round" steps like 0.1: x - 0.2x of a
+        // 5-decimal x lands back on the 5-decimal grid, which sends floorTo5Decimals down its slow BigDecimal path.
+        double[] stepSizes = {0.123, 0.0001, 0.1, 0.001};
+
+        System.out.println(String.format("Dimensionality: %d, iterations: %d, repeats: %d (median reported)\n", dimensionality, iterations, repeats));
+        System.out.println(String.format("%-11s %11s %11s %8s %11s %11s %8s %15s %15s %11s",
+            "Function", "solve f64", "solve f32", "speedup", "kernel f64", "kernel f32", "speedup", "final f64", "final f32", "rel. dev."));
+
+        for (int f = 0; f < functions.length; f++) {
+            ObjectiveFunction objectiveFunction = functions[f];
+            double stepSize = stepSizes[f];
+            double[] start = initialPoint(dimensionality, objectiveFunction.getBounds());
+
+            long[] solve64 = new long[repeats];
+            long[] solve32 = new long[repeats];
+            long[] kernel64 = new long[repeats];
+            long[] kernel32 = new long[repeats];
+            double final64 = 0;
+            double final32 = 0;
+
+            // the first round only warms up the JIT
+            for (int r = -1; r < repeats; r++) {
+                double[] x64 = start.clone();
+                long t0 = System.nanoTime();
+                for (int i = 1; i < iterations; i++) {
+                    GradientDescentOptimizer.steepestDescentStep(objectiveFunction, x64, stepSize);
+                }
+                final64 = objectiveFunction.compute(x64);
+                long t1 = System.nanoTime();
+
+                float[] x32 = toFloat(start);
+                long t2 = System.nanoTime();
+                for (int i = 1; i < iterations; i++) {
+                    Float32Optimizer.steepestDescentStep(objectiveFunction, x32, stepSize);
+                }
+                final32 = objectiveFunction.compute(x32);
+                long t3 = System.nanoTime();
+
+                double[] k64 = start.clone();
+                long t4 = System.nanoTime();
+                double sink = 0;
+                for (int i = 1; i < iterations; i++) {
+                    sink += objectiveFunction.compute(k64) + objectiveFunction.computeGradient(k64)[0];
+                }
+                long t5 = System.nanoTime();
+
+                float[] k32 = toFloat(start);
+                long t6 = System.nanoTime();
+                for (int i = 1; i < iterations; i++) {
+                    sink += objectiveFunction.compute(k32) + objectiveFunction.computeGradient(k32)[0];
+                }
+                long t7 = System.nanoTime();
+
+                if (sink == 42) {
+                    System.out.print("");  // keeps the kernel results live
+                }
+                if (r >= 0) {
+                    solve64[r] = t1 - t0;
+                    solve32[r] = t3 - t2;
+                    kernel64[r] = t5 - t4;
+                    kernel32[r] = t7 - t6;
+                }
+            }
+
+            double deviation = Math.abs(final32 - final64) / Math.max(Math.abs(final64), 1e-12);
+            System.out.println(String.format("%-11s %9.1fms %9.1fms %7.2fx %9.1fms %9.1fms %7.2fx %15.5f %15.5f %11.3e",
+                objectiveFunction.getName(),
+                median(solve64) / 1e6, median(solve32) / 1e6, (double) median(solve64) / median(solve32),
+                median(kernel64) / 1e6, median(kernel32) / 1e6, (double) median(kernel64) / median(kernel32),
+                final64, final32, deviation));
+        }
+    }
+
+    // Deterministic start inside the function's bounds
+    private static double[] initialPoint(int dimensionality, double[] bounds) {
+        Random random = new Random(42);
+        double[] point = new double[dimensionality];
+        for (int i = 0; i < dimensionality; i++) {
+            point[i] = bounds[0] / 2 + random.nextDouble() * (bounds[1] - bounds[0]) / 2;
+        }
+        return point;
+    }
+
+    private static float[] toFloat(double[] variables) {
+        float[] result = new float[variables.length];
+        for (int i = 0; i < variables.length; i++) {
+            result[i] = (float) variables[i];
+        }
+        return result;
+    }
+
+    private static long median(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,170 @@
+package optimizer;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+// Publishes iteration snapshots to an append-only, tailable file (one JSON record per line) for the live visualizer.
+//
+//   {"type":"header","run":"4242-1760000000000","function":"Rastrigin","algorithm":"Steepest Descent","dimensionality":4,"every":1}
+//   {"type":"iteration","iteration":2,"value":0.00000,"norm":12.96148,"x":[0.00000,0.00000,0.00000,0.00000]}
+//   {"type":"end","status":"converged","written":3,"dropped":0}
+//
+// The solver thread only swaps its snapshot into a single slot; a background thread does the file I/O.
+// If the writer falls behind, the unwritten snapshot is replaced by the newer one (an intermediate frame is
+// dropped) so publishing never blocks the solver.
+public class TrajectoryPublisher {
+    private final BufferedWriter writer;
+    private final int every;
+    private final AtomicReference<Frame> latest = new AtomicReference<>();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean closing = false;
+    private volatile boolean failed = false;
+
+    private static class Frame {
+        final int iteration;
+        final double value;
+        final double norm;
+        final double[] x;
+
+        Frame(int iteration, double value, double norm, double[] x) {
+            this.iteration = iteration;
+            this.value = value;
+            this.norm = norm;
+            this.x = x;
+        }
+    }
+
+    public TrajectoryPublisher(String filepath, int every, String functionName, String algorithm, int dimensionality) throws IOException {
+        this.every = Math.max(1, every);
+        this.writer = new BufferedWriter(new FileWriter(filepath));
+        // the run id (pid and start time) lets a tailing reader tell that the file was rewritten by a new run,
+        // even when the new run has already grown past the reader's offset
+        String run = String.format(Locale.ROOT, "%d-%d", ProcessHandle.current().pid(), System.currentTimeMillis());
+        writer.write(String.format(Locale.ROOT, "{\"type\":\"header\",\"run\":\"%s\",\"function\":\"%s\",\"algorithm\":\"%s\",\"dimensionality\":%d,\"every\":%d}\n",
+            run, functionName, algorithm, dimensionality, this.every));
+        writer.flush();
+
+        writerThread = new Thread(this::writeLoop, "trajectory-publisher");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    // Opens a publisher when -Dtrajectory.file is set (decimated by -Dtrajectory.every), otherwise returns null
+    public static TrajectoryPublisher fromSystemProperties(String functionName, String algorithm, int dimensionality) {
+        String filepath = System.getProperty("trajectory.file");
+        if (filepath == null || filepath.isEmpty()) {
+            return null;
+        }
+        int every;
+        try {
+            every = Integer.parseInt(System.getProperty("trajectory.every", "1").trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Error: trajectory.every must be an integer, live output disabled.");
+            return null;
+        }
+        try {
+            return new TrajectoryPublisher(filepath, every, functionName, algorithm, dimensionality);
+        } catch (IOException e) {
+            System.out.println("Error: Could not open trajectory file " + filepath + ", live output disabled.");
+            return null;
+        }
+    }
+
+    // Whether publish would keep this iteration, so callers can skip building snapshots that decimation drops
+    public boolean accepts(int iteration, boolean force) {
+        return !failed && (force || iteration == 1 || iteration % every == 0);
+    }
+
+    // Called from the solver thread; copies x so the solver can keep mutating its array. Never blocks.
+    public void publish(int iteration, double value, double norm, double[] x, boolean force) {
+        if (!accepts(iteration, force)) {
+            return;
+        }
+        if (latest.getAndSet(new Frame(iteration, value, norm, x.clone())) != null) {
+            dropped.incrementAndGet();
+        }
+        LockSupport.unpark(writerThread);
+    }
+
+    // Drains the last snapshot and writes the end record; called once the solve is over
+    public void close(String status) {
+        closing = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            // the writer may have seen an empty slot just before the final frame was published
+            Frame last = latest.getAndSet(null);
+            if (last != null && !failed) {
+                writeFrame(last, new StringBuilder());
+            }
+            if (!failed) {
+                writer.write(String.format(Locale.ROOT, "{\"type\":\"end\",\"status\":\"%s\",\"written\":%d,\"dropped\":%d}\n",
+                    status, written.get(), dropped.get()));
+            }
+            writer.close();
+        } catch (IOException e) {
+            return;
+        }
+    }
+
+    private void writeLoop() {
+        StringBuilder stringbuilder = new StringBuilder();
+        while (true) {
+            Frame frame = latest.getAndSet(null);
+            if (frame == null) {
+                if (closing) {
+                    return;
+                }
+                LockSupport.parkNanos(50_000_000L);
+                continue;
+            }
+            try {
+                writeFrame(frame, stringbuilder);
+            } catch (IOException e) {
+                failed = true;
+                return;
+            }
+        }
+    }
+
+    private void writeFrame(Frame frame, StringBuilder stringbuilder) throws IOException {
+        stringbuilder.setLength(0);
+        appendFrame(stringbuilder, frame);
+        writer.write(stringbuilder.toString());
+        writer.flush();  // whole records only; a tailing reader still buffers any partial last line
+        written.incrementAndGet();
+    }
+
+    private static void appendFrame(StringBuilder stringbuilder, Frame frame) {
+        stringbuilder.append("{\"type\":\"iteration\",\"iteration\":").append(frame.iteration);
+        stringbuilder.append(",\"value\":").append(jsonNumber(frame.value));
+        stringbuilder.append(",\"norm\":").append(jsonNumber(frame.norm));
+        stringbuilder.append(",\"x\":[");
+        for (int i = 0; i < frame.x.length; i++) {
+            if (i > 0) {
+                stringbuilder.append(',');
+            }
+            stringbuilder.append(jsonNumber(frame.x[i]));
+        }
+        stringbuilder.append("]}\n");
+    }
+
+    // JSON has no NaN/Infinity; the initial point has no gradient norm yet, for example
+    private static String jsonNumber(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return "null";
+        }
+        return String.format(Locale.ROOT, "%.5f", value);  // the default locale may use a decimal comma
+    }
+}
@@ -47,6 +47,49 @@ public class AckleyFunction extends ObjectiveFunction {
         return grad;
     }
 
+    @Override
+    public double compute(float[] variables) {
+        int n = variables.length;
+        double sumSq = 0.0;  // both sums accumulate in double
+        double sumCos = 0.0;
+        for (float x : variables) {
+            sumSq += (double) x * x;
+            sumCos += Float32Math.cos2Pi(x);
+        }
+        double term1 = -20.0 * Math.exp(-0.2 * Math.sqrt(sumSq / n));
+        double term2 = -Math.exp(sumCos / n);
+        return term1 + term2 + 20.0 + Math.E;
+    }
+
+    @Override
+    public float[] computeGradient(float[] variables) {
+        int n = variables.length;
+        float[] grad = new float[n];
+
+        double sumSq = 0.0;
+        double sumCos = 0.0;
+        for (float x : variables) {
+            sumSq += (double) x * x;
+            sumCos += Float32Math.cos2Pi(x);
+        }
+
+        double sqrtPart = Math.sqrt(sumSq / n);
+        if (sqrtPart < 1e-14) {
+            sqrtPart = 1e-14;
+        }
+        double expPart1 = Math.exp(-0.2 * sqrtPart);
+        double expPart2 = Math.exp(sumCos / n);
+
+        // grad_i = part1 + part2 from the double kernel, folded into one coefficient per term
+        float coefficientX = (float) (-20.0 * expPart1 * (-0.2) / (n * sqrtPart));
+        float coefficientSin = (float) (-expPart2 * (1.0 / n) * (-2.0 * Math.PI));
+        for (int i = 0; i < n; i++) {
+            grad[i] = coefficientX * variables[i] + coefficientSin * Float32Math.sin2Pi(variables[i]);
+        }
+
+        return grad;
+    }
+
     @Override
     public double[] getBounds() {
         return GradientDescentOptimizer.BOUNDS;  // same [-5, 5] default
@@ -0,0 +1,42 @@
+package optimizer.functions;
+
+// cos(2*pi*x) and sin(2*pi*x) for the float32 kernels. Math.cos/Math.sin give full double accuracy, which
+// float32 state cannot use; here the argument is reduced in float arithmetic and a Taylor polynomial
+// accurate to about 2e-7 (float precision) is evaluated instead. The reduction has no data-dependent
+// branches, so it stays fast on the random-looking inputs of a large problem.
+class Float32Math {
+    private static final float TWO_PI = (float) (2 * Math.PI);
+
+    // Adding and subtracting 1.5 * 2^23 rounds a float to the nearest whole number, valid while |x| < 2^22
+    private static final float ROUNDER = 12582912f;
+    private static final float LIMIT = 4194304f;
+
+    static float cos2Pi(float x) {
+        if (!(Math.abs(x) < LIMIT)) {
+            return (float) Math.cos(2 * Math.PI * x);  // huge or NaN: not worth a fast path
+        }
+        float r = Math.abs(x - roundToWhole(x));  // [0, 0.5]; cos is even
+        return sin2PiQuarter(0.25f - r);          // cos(2 pi r) = sin(2 pi (1/4 - r))
+    }
+
+    static float sin2Pi(float x) {
+        if (!(Math.abs(x) < LIMIT)) {
+            return (float) Math.sin(2 * Math.PI * x);
+        }
+        float s = x - roundToWhole(x) - 0.25f;    // sin(2 pi x) = cos(2 pi (x - 1/4))
+        float r = Math.abs(s - roundToWhole(s));
+        return sin2PiQuarter(0.25f - r);
+    }
+
+    private static float roundToWhole(float x) {
+        return (x + ROUNDER) - ROUNDER;
+    }
+
+    // sin(2 pi t) for t in [-1/4, 1/4]
+    private static float sin2PiQuarter(float t) {
+        float u = TWO_PI * t;
+        float u2 = u * u;
+        return u * (1f + u2 * (-1f / 6 + u2 * (1f / 120 + u2 * (-1f / 5040 + u2 * (1f / 362880
+                    + u2 * (-1f / 39916800 + u2 * (1f / 6227020800f)))))));
+    }
+}
@@ -12,4 +12,30 @@ public abstract class ObjectiveFunction {
 
     // Returns the name of the objective function.
     public abstract String getName();
+
+    // Computes the value for float32 state; reductions still accumulate in double.
+    // Widens and falls back to compute(double[]) unless a function provides its own kernel.
+    public double compute(float[] variables) {
+        return compute(toDouble(variables));
+    }
+
+    // Computes the gradient for float32 state, stored as float.
+    // Widens and falls back to computeGradient(double[]) unless a function provides its own kernel.
+    public float[] computeGradient(float[] variables) {
+        double[] gradient = computeGradient(toDouble(variables));
+        float[] result = new float[gradient.length];
+        for (int i = 0; i < gradient.length; i++) {
+            result[i] = (float) gradient[i];
+        }
+        return result;
+    }
+
+    // Widens a float32 vector to double
+    public static double[] toDouble(float[] variables) {
+        double[] result = new double[variables.length];
+        for (int i = 0; i < variables.length; i++) {
+            result[i] = variables[i];
+        }
+        return result;
+    }
 }
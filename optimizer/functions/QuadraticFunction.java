@@ -21,6 +21,24 @@ public class QuadraticFunction extends ObjectiveFunction {
         return gradient;
     }
 
+    @Override
+    public double compute(float[] variables) {
+        double sum = 0;  // accumulate in double
+        for (float x : variables) {
+            sum += (double) x * x;
+        }
+        return sum;
+    }
+
+    @Override
+    public float[] computeGradient(float[] variables) {
+        float[] gradient = new float[variables.length];
+        for (int i = 0; i < variables.length; i++) {
+            gradient[i] = 2 * variables[i];
+        }
+        return gradient;
+    }
+
     @Override
     public double[] getBounds() {
         return GradientDescentOptimizer.BOUNDS;  // Uses default [-5, 5]
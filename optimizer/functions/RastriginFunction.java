@@ -23,6 +23,26 @@ public class RastriginFunction extends ObjectiveFunction {
         return gradient;
     }
 
+    @Override
+    public double compute(float[] variables) {
+        double A = 10.0;
+        double sum = A * variables.length;  // accumulate in double
+        for (float x : variables) {
+            sum += (double) x * x - A * Float32Math.cos2Pi(x);
+        }
+        return sum;
+    }
+
+    @Override
+    public float[] computeGradient(float[] variables) {
+        float twoPiA = (float) (2 * Math.PI * 10.0);
+        float[] gradient = new float[variables.length];
+        for (int i = 0; i < variables.length; i++) {
+            gradient[i] = 2 * variables[i] + twoPiA * Float32Math.sin2Pi(variables[i]);
+        }
+        return gradient;
+    }
+
     @Override
     public double[] getBounds() {
         return new double[]{-5.12, 5.12};  // Specific bounds for Rastrigin
@@ -24,6 +24,30 @@ public class RosenbrockFunction extends ObjectiveFunction {
         return gradient;
     }
 
+    @Override
+    public double compute(float[] variables){
+        double sum = 0;  // accumulate in double
+        for(int i = 0; i < variables.length -1; i++){
+            double x = variables[i];
+            double next = variables[i + 1] - x * x;
+            sum += 100 * next * next + (1 - x) * (1 - x);
+        }
+        return sum;
+    }
+
+    @Override
+    public float[] computeGradient(float[] variables) {
+        float[] gradient = new float[variables.length];
+        for (int i = 0; i < variables.length - 1; i++) {
+            float x = variables[i];
+            float next = variables[i + 1] - x * x;
+            // same per-term updates as the double kernel
+            gradient[i] = -400 * x * next - 2 * (1 - x);
+            gradient[i + 1] = 200 * next;
+        }
+        return gradient;
+    }
+
     @Override
     public double[] getBounds() {
         return GradientDescentOptimizer.BOUNDS;  // Uses default [-5, 5]
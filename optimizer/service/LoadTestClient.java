@@ -0,0 +1,93 @@
+package optimizer.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fires concurrent solve requests at a running SolverService and reports throughput and latency.
+// Usage: LoadTestClient <config file> [requests] [concurrency] [port] [every]
+public class LoadTestClient {
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: LoadTestClient <config file> [requests] [concurrency] [port] [every]");
+            return;
+        }
+        String config = Files.readString(Path.of(args[0]));
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+        int port = args.length > 3 ? Integer.parseInt(args[3]) : SolverService.DEFAULT_PORT;
+        int every = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+
+        URI solveUri = URI.create(String.format("http://127.0.0.1:%d/solve?every=%d", port, every));
+        HttpClient client = HttpClient.newHttpClient();
+        AtomicLong ok = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long[] latencies = new long[Math.max(0, requests)];  // completed solves only; 503s return almost instantly
+        AtomicLong nextRequest = new AtomicLong();
+
+        long start = System.nanoTime();
+        ExecutorService executor = SolverService.newVirtualThreadExecutor();
+        List<Future<?>> workers = new ArrayList<>();
+        for (int w = 0; w < concurrency; w++) {
+            workers.add(executor.submit(() -> {
+                long index;
+                while ((index = nextRequest.getAndIncrement()) < requests) {
+                    HttpRequest request = HttpRequest.newBuilder(solveUri)
+                        .POST(HttpRequest.BodyPublishers.ofString(config))
+                        .build();
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() == 503) {
+                            rejected.incrementAndGet();
+                        } else if (response.statusCode() == 200 && !response.body().contains("Status: FAILED")) {
+                            latencies[(int) ok.getAndIncrement()] = System.nanoTime() - sent;
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        failed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        executor.shutdown();
+
+        long[] completed = Arrays.copyOf(latencies, (int) ok.get());
+        Arrays.sort(completed);
+        System.out.println(String.format("Requests: %d (ok %d, rejected %d, failed %d)", requests, ok.get(), rejected.get(), failed.get()));
+        System.out.println(String.format("Elapsed: %.3f s, throughput: %.1f req/s", elapsedSeconds, requests / elapsedSeconds));
+        if (completed.length == 0) {
+            System.out.println("Latency ms: no completed solves");
+        } else {
+            System.out.println(String.format("Latency ms (ok only): p50 %.3f, p95 %.3f, p99 %.3f, max %.3f",
+                percentile(completed, 0.50), percentile(completed, 0.95), percentile(completed, 0.99), completed[completed.length - 1] / 1e6));
+        }
+
+        HttpResponse<String> metrics = client.send(
+            HttpRequest.newBuilder(URI.create(String.format("http://127.0.0.1:%d/metrics", port))).build(),
+            HttpResponse.BodyHandlers.ofString());
+        System.out.println("\nServer metrics:\n" + metrics.body());
+    }
+
+    private static double percentile(long[] sorted, double q) {
+        int index = (int) Math.ceil(q * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
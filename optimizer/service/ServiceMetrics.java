@@ -0,0 +1,85 @@
+package optimizer.service;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Counters and latency windows exposed on GET /metrics
+public class ServiceMetrics {
+    private static final int WINDOW = 1024;  // most recent jobs kept for percentiles
+
+    final AtomicInteger queued = new AtomicInteger();
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicLong accepted = new AtomicLong();
+    final AtomicLong rejected = new AtomicLong();
+    final AtomicLong badRequests = new AtomicLong();
+    private final AtomicLong[] finished = new AtomicLong[SolveJob.Status.values().length];
+
+    private final LatencyWindow queueWait = new LatencyWindow();
+    private final LatencyWindow total = new LatencyWindow();
+
+    ServiceMetrics() {
+        for (int i = 0; i < finished.length; i++) {
+            finished[i] = new AtomicLong();
+        }
+    }
+
+    void recordQueueWait(long nanos) {
+        queueWait.add(nanos);
+    }
+
+    void recordFinished(SolveJob.Status status, long totalNanos) {
+        finished[status.ordinal()].incrementAndGet();
+        total.add(totalNanos);
+    }
+
+    // Plain "name value" lines, one metric per line
+    String render() {
+        StringBuilder stringbuilder = new StringBuilder();
+        stringbuilder.append("queue_depth ").append(queued.get()).append('\n');
+        stringbuilder.append("running ").append(running.get()).append('\n');
+        stringbuilder.append("accepted_total ").append(accepted.get()).append('\n');
+        stringbuilder.append("rejected_total ").append(rejected.get()).append('\n');
+        stringbuilder.append("bad_requests_total ").append(badRequests.get()).append('\n');
+        for (SolveJob.Status status : SolveJob.Status.values()) {
+            if (status == SolveJob.Status.QUEUED || status == SolveJob.Status.RUNNING) {
+                continue;
+            }
+            stringbuilder.append("finished_total{status=\"").append(status.name().toLowerCase()).append("\"} ")
+                         .append(finished[status.ordinal()].get()).append('\n');
+        }
+        queueWait.render(stringbuilder, "queue_wait_ms");
+        total.render(stringbuilder, "latency_ms");
+        return stringbuilder.toString();
+    }
+
+    // Fixed-size ring of the most recent samples
+    private static class LatencyWindow {
+        private final long[] samples = new long[WINDOW];
+        private long count = 0;
+
+        synchronized void add(long nanos) {
+            samples[(int) (count % WINDOW)] = nanos;
+            count++;
+        }
+
+        void render(StringBuilder stringbuilder, String name) {
+            long[] sorted;
+            synchronized (this) {
+                sorted = Arrays.copyOf(samples, (int) Math.min(count, WINDOW));
+            }
+            Arrays.sort(sorted);
+            for (double q : new double[]{0.5, 0.95, 0.99}) {
+                stringbuilder.append(String.format("%s{quantile=\"%.2f\"} %.3f\n", name, q, percentile(sorted, q) / 1e6));
+            }
+        }
+
+        private static double percentile(long[] sorted, double q) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(q * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
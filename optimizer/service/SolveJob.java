@@ -0,0 +1,151 @@
+package optimizer.service;
+
+import optimizer.GradientDescentOptimizer;
+import optimizer.functions.ObjectiveFunction;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+// One queued/running solve. Progress is written in the same layout as the .txt output file.
+public class SolveJob {
+    public enum Status { QUEUED, RUNNING, CONVERGED, MAX_ITERATIONS, CANCELLED, TIMED_OUT, FAILED }
+
+    final long id;
+    final SolveRequest request;
+    final int progressEvery;
+    final long submittedNanos;
+    final long deadlineNanos;
+
+    private volatile boolean cancelled = false;
+    private volatile Status status = Status.QUEUED;
+
+    SolveJob(long id, SolveRequest request, int progressEvery, long timeoutMillis) {
+        this.id = id;
+        this.request = request;
+        this.progressEvery = Math.max(1, progressEvery);
+        this.submittedNanos = System.nanoTime();
+        // saturate so a huge timeout means "effectively never" instead of overflowing into the past
+        this.deadlineNanos = submittedNanos + Math.min(TimeUnit.MILLISECONDS.toNanos(timeoutMillis), Long.MAX_VALUE / 2);
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    // True once the job was cancelled or ran out of time; unlike shouldStop it leaves the status alone
+    boolean isStopRequested() {
+        return cancelled || remainingNanos() <= 0;
+    }
+
+    // Checked before the job starts and after every iteration
+    private boolean shouldStop() {
+        if (cancelled) {
+            status = Status.CANCELLED;
+            return true;
+        }
+        if (remainingNanos() <= 0) {
+            status = Status.TIMED_OUT;
+            return true;
+        }
+        return false;
+    }
+
+    // Marks a job that never got a run slot, or whose client went away mid-stream. A disconnect is only seen
+    // when a progress write fails, so with a large progressEvery the job runs on until it ends, times out or is deleted.
+    void abandon() {
+        if (!shouldStop()) {
+            status = Status.CANCELLED;
+        }
+    }
+
+    void fail() {
+        status = Status.FAILED;
+    }
+
+    // Runs the solve on the calling thread, streaming every progressEvery-th iteration to out
+    Status run(Writer out) throws IOException {
+        if (shouldStop()) {
+            return status;
+        }
+        status = Status.RUNNING;
+
+        ObjectiveFunction objectiveFunction = GradientDescentOptimizer.createObjectiveFunction(request.objectiveFunctionChoice);
+        boolean momentum = request.algorithmChoice.equals("momentum");
+        double[] changingVariables = request.variables.clone();
+        double[] velocity = new double[request.dimensionality];
+
+        out.write(String.format("Objective Function: %s\n", objectiveFunction.getName()));
+        if (momentum) {
+            out.write(String.format("Algorithm: Momentum Descent (beta=%f)\n", request.momentumBeta));
+        } else {
+            out.write("Algorithm: Steepest Descent\n");
+        }
+        out.write(String.format("Dimensionality: %d\n", request.dimensionality));
+        out.write("Initial Point: ");
+        for (double variable : request.variables) {
+            out.write(variable + " ");
+        }
+        out.write("\n");
+        out.write(String.format("Iterations: %d\nTolerance: %.5f\nStep Size: %.5f\n\n", request.iterations, request.tolerance, request.stepSize));
+        out.write("Optimization process:\n");
+        out.write("Iteration 1:\n");
+        out.write(String.format("Objective Function Value: %.5f\n", objectiveFunction.compute(changingVariables)));
+        out.write(String.format("x-values: %s\n\n", GradientDescentOptimizer.xValuesToString(changingVariables)));
+        out.flush();
+
+        int iteration = 1;
+        double objectiveValue = 0;
+        double norm = 0;
+        for (; iteration < request.iterations; iteration++) {
+            if (momentum) {
+                norm = GradientDescentOptimizer.momentumDescentStep(objectiveFunction, changingVariables, velocity, request.stepSize, request.momentumBeta);
+            } else {
+                norm = GradientDescentOptimizer.steepestDescentStep(objectiveFunction, changingVariables, request.stepSize);
+            }
+            objectiveValue = GradientDescentOptimizer.floorTo5Decimals(objectiveFunction.compute(changingVariables));
+
+            boolean converged = norm < request.tolerance;
+            if (converged || (iteration + 1) % progressEvery == 0) {
+                writeIteration(out, iteration + 1, objectiveValue, changingVariables, norm);
+            }
+            if (converged) {
+                out.write(String.format("Convergence reached after %d iterations.\n\n", iteration + 1));
+                status = Status.CONVERGED;
+                break;
+            }
+            if (shouldStop()) {
+                out.write(String.format("Stopped after %d iterations: %s\n\n", iteration + 1, status));
+                out.flush();
+                return status;
+            }
+        }
+
+        if (iteration == request.iterations){
+            // always report the final point, even when it was decimated away
+            if (request.iterations > 1 && request.iterations % progressEvery != 0) {
+                writeIteration(out, request.iterations, objectiveValue, changingVariables, norm);
+            }
+            out.write("Maximum iterations reached without satisfying the tolerance.\n\n");
+            status = Status.MAX_ITERATIONS;
+        }
+        out.write("Optimization process completed.\n");
+        out.flush();
+        return status;
+    }
+
+    private static void writeIteration(Writer out, int iteration, double objectiveValue, double[] changingVariables, double norm) throws IOException {
+        out.write(String.format("Iteration %d:\n", iteration));
+        out.write(String.format("Objective Function Value: %.5f\n", objectiveValue));
+        out.write(String.format("x-values: %s\n", GradientDescentOptimizer.xValuesToString(changingVariables)));
+        out.write(String.format("Current Tolerance: %.5f\n\n", norm));
+        out.flush();
+    }
+}
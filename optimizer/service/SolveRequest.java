@@ -0,0 +1,127 @@
+package optimizer.service;
+
+import optimizer.GradientDescentOptimizer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+// A single solve request, using the same line-by-line layout as the .txt config file read by getFileInput
+public class SolveRequest {
+    public static final int MAX_DIMENSIONALITY = 1_000_000;  // keeps a single request from exhausting the heap
+    public static final int MAX_BODY_BYTES = 32 * MAX_DIMENSIONALITY;  // room for a full-precision double per dimension
+
+    final String objectiveFunctionChoice;
+    final String algorithmChoice;
+    final int dimensionality;
+    final int iterations;
+    final double tolerance;
+    final double stepSize;
+    final double momentumBeta;
+    final double[] variables;
+
+    SolveRequest(String objectiveFunctionChoice, String algorithmChoice, int dimensionality, int iterations,
+                 double tolerance, double stepSize, double momentumBeta, double[] variables) {
+        this.objectiveFunctionChoice = objectiveFunctionChoice;
+        this.algorithmChoice = algorithmChoice;
+        this.dimensionality = dimensionality;
+        this.iterations = iterations;
+        this.tolerance = tolerance;
+        this.stepSize = stepSize;
+        this.momentumBeta = momentumBeta;
+        this.variables = variables;
+    }
+
+    // Parses a config body; unlike getFileInput this never exits the JVM, it throws IllegalArgumentException instead
+    public static SolveRequest parse(String body) {
+        String objectiveFunctionChoice = null;
+        String algorithmChoice = null;
+        int dimensionality = 0;
+        int iterations = 0;
+        double tolerance = 0;
+        double stepSize = 0;
+        double momentumBeta = 0.9; // default, same as GradientDescentOptimizer
+        double[] variables = null;
+
+        try {
+            BufferedReader reader = new BufferedReader(new StringReader(body));
+            String line;
+            int count = 0;
+            while((line = reader.readLine()) != null){
+                line = line.trim();
+                count++;
+                switch(count){
+                    case 1:
+                        if(line.equals("quadratic") || line.equals("rosenbrock") || line.equals("ackley") || line.equals("rastrigin")){
+                            objectiveFunctionChoice = line;
+                        } else {
+                            throw new IllegalArgumentException("Error: Unknown objective function.");
+                        }
+                        break;
+                    case 2:
+                        if(line.equals("steepest") || line.equals("momentum")){
+                            algorithmChoice = line;
+                        } else {
+                            throw new IllegalArgumentException("Error: Unknown algorithm.");
+                        }
+                        break;
+                    case 3:
+                        dimensionality = Integer.parseInt(line);
+                        if (dimensionality < 1 || dimensionality > MAX_DIMENSIONALITY) {
+                            throw new IllegalArgumentException(String.format(
+                                "Error: Dimensionality must be between 1 and %d.", MAX_DIMENSIONALITY));
+                        }
+                        break;
+                    case 4:
+                        iterations = Integer.parseInt(line);
+                        if (iterations < 1) {
+                            throw new IllegalArgumentException("Error: Number of iterations must be at least 1.");
+                        }
+                        break;
+                    case 5:
+                        tolerance = Double.parseDouble(line);
+                        break;
+                    case 6:
+                        stepSize = Double.parseDouble(line);
+                        break;
+                    case 7:
+                        if(algorithmChoice.equals("momentum")) {
+                            momentumBeta = Double.parseDouble(line);
+                        }
+                        break;
+                    case 8:
+                        String[] variablesStrings = line.split("\\s+");
+                        if (variablesStrings.length != dimensionality){
+                            throw new IllegalArgumentException("Error: Initial point dimensionality mismatch.");
+                        }
+                        variables = new double[dimensionality];
+                        for(int i = 0; i < variablesStrings.length; i++){
+                            variables[i] = Double.parseDouble(variablesStrings[i]);
+                        }
+                        checkBounds(variables);
+                        break;
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Error: Malformed number in config (" + e.getMessage() + ").");
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Error reading the config.");
+        }
+
+        if (variables == null) {
+            throw new IllegalArgumentException("Error: Config must have 8 lines (line 7 may be blank for steepest).");
+        }
+        return new SolveRequest(objectiveFunctionChoice, algorithmChoice, dimensionality, iterations,
+                                tolerance, stepSize, momentumBeta, variables);
+    }
+
+    // Same bounds check as GradientDescentOptimizer.checkBounds, reported as an exception
+    private static void checkBounds(double[] variables) {
+        double[] bounds = GradientDescentOptimizer.BOUNDS;
+        for (double variable : variables) {
+            if (variable < bounds[0] || variable > bounds[1]) {
+                throw new IllegalArgumentException(String.format(
+                    "Error: Initial point %s is outside the bounds [-5.0, 5.0].", variable));
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package optimizer.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Long-lived local HTTP service so other processes can solve without paying JVM startup and JIT warm-up each time.
+//
+//   POST   /solve[?timeout=ms&every=n]   body = config file contents (same 8 lines as getFileInput)
+//                                       streams the output-file layout back; X-Job-Id header identifies the job
+//   DELETE /jobs/<id>                    cancels a queued or running job
+//   GET    /metrics                      queue depth, counters and latency percentiles
+//
+// At most maxConcurrent jobs run at once and at most queueCapacity more wait for a slot; anything beyond that
+// is rejected immediately with 503 and a Retry-After header so callers back off instead of piling up.
+public class SolverService {
+    public static final int DEFAULT_PORT = 8080;
+    private static final long QUEUE_POLL_NANOS = 20_000_000L;  // how often a queued job re-checks for cancellation
+
+    private final int maxConcurrent;
+    private final long defaultTimeoutMillis;
+    private final Semaphore admission;  // running + waiting
+    private final Semaphore runSlots;   // running only
+    private final Map<Long, SolveJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ServiceMetrics metrics = new ServiceMetrics();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public SolverService(int maxConcurrent, int queueCapacity, long defaultTimeoutMillis) {
+        if (maxConcurrent < 1 || queueCapacity < 0 || defaultTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Error: Need maxConcurrent >= 1, queueCapacity >= 0 and a positive timeout.");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        this.admission = new Semaphore(maxConcurrent + queueCapacity);
+        this.runSlots = new Semaphore(maxConcurrent, true);
+    }
+
+    // Binds to loopback only; every exchange is handled (and its solve run) on its own virtual thread
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = newVirtualThreadExecutor();
+        server.setExecutor(executor);
+        server.createContext("/solve", this::handleSolve);
+        server.createContext("/jobs/", this::handleJobs);
+        server.createContext("/metrics", this::handleMetrics);
+        server.start();
+        System.out.println(String.format("Solver service listening on http://127.0.0.1:%d (%d concurrent, %d queued)",
+            server.getAddress().getPort(), maxConcurrent, admission.availablePermits() - maxConcurrent));
+    }
+
+    public void stop() {
+        for (SolveJob job : jobs.values()) {
+            job.cancel();
+        }
+        server.stop(1);
+        executor.shutdown();
+    }
+
+    private void handleSolve(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                sendText(exchange, 405, "Use POST with the config file as the body.\n");
+                return;
+            }
+            // admit before touching the body, so an overloaded service never reads or parses what it rejects
+            if (!admission.tryAcquire()) {
+                metrics.rejected.incrementAndGet();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendText(exchange, 503, "Error: Solver queue is full, retry later.\n");
+                return;
+            }
+            try {
+                Map<String, String> query = parseQuery(exchange.getRequestURI());
+                SolveRequest request;
+                long timeoutMillis;
+                int progressEvery;
+                try (InputStream in = exchange.getRequestBody()) {
+                    timeoutMillis = Long.parseLong(query.getOrDefault("timeout", Long.toString(defaultTimeoutMillis)));
+                    if (timeoutMillis <= 0) {
+                        throw new IllegalArgumentException("Error: timeout must be a positive number of milliseconds.");
+                    }
+                    progressEvery = Integer.parseInt(query.getOrDefault("every", "1"));
+                    request = SolveRequest.parse(readBody(exchange, in));
+                } catch (IllegalArgumentException e) {
+                    metrics.badRequests.incrementAndGet();
+                    sendText(exchange, 400, e.getMessage() + "\n");
+                    return;
+                }
+                runJob(exchange, new SolveJob(nextId.getAndIncrement(), request, progressEvery, timeoutMillis));
+            } finally {
+                admission.release();
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Waits for a run slot (the job is "queued" meanwhile), then solves on this virtual thread
+    private void runJob(HttpExchange exchange, SolveJob job) throws IOException {
+        boolean queued = false;
+        try {
+            jobs.put(job.id, job);
+            metrics.accepted.incrementAndGet();
+            metrics.queued.incrementAndGet();
+            queued = true;
+
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.getResponseHeaders().set("X-Job-Id", Long.toString(job.id));
+            exchange.sendResponseHeaders(200, 0);  // chunked, so progress streams as it is written
+            Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8));
+
+            boolean gotSlot = awaitRunSlot(job);
+            metrics.queued.decrementAndGet();
+            queued = false;
+            metrics.recordQueueWait(System.nanoTime() - job.submittedNanos);
+
+            if (!gotSlot) {
+                job.abandon();
+            } else {
+                metrics.running.incrementAndGet();
+                try {
+                    job.run(out);
+                } catch (IOException e) {
+                    job.abandon();  // client disconnected; only noticed when a progress write fails
+                } catch (RuntimeException e) {
+                    job.fail();
+                    out.write("Error: " + e + "\n");
+                } finally {
+                    metrics.running.decrementAndGet();
+                    runSlots.release();
+                }
+            }
+            out.write(String.format("Status: %s\n", job.getStatus()));
+            out.close();
+        } finally {
+            if (queued) {
+                metrics.queued.decrementAndGet();
+            }
+            if (job.getStatus() == SolveJob.Status.QUEUED) {
+                job.abandon();  // failed before it could start
+            }
+            jobs.remove(job.id);
+            metrics.recordFinished(job.getStatus(), System.nanoTime() - job.submittedNanos);
+        }
+    }
+
+    // Waits in short slices so a DELETE or the deadline frees the queue slot (and the admission permit) promptly
+    private boolean awaitRunSlot(SolveJob job) {
+        try {
+            while (!job.isStopRequested()) {
+                long slice = Math.min(job.remainingNanos(), QUEUE_POLL_NANOS);
+                if (runSlots.tryAcquire(Math.max(0, slice), TimeUnit.NANOSECONDS)) {
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private void handleJobs(HttpExchange exchange) throws IOException {
+        try {
+            String idText = exchange.getRequestURI().getPath().substring("/jobs/".length());
+            SolveJob job;
+            try {
+                job = jobs.get(Long.parseLong(idText));
+            } catch (NumberFormatException e) {
+                job = null;
+            }
+            if (job == null) {
+                sendText(exchange, 404, "Error: No active job " + idText + ".\n");
+            } else if (exchange.getRequestMethod().equals("DELETE")) {
+                job.cancel();
+                sendText(exchange, 202, "Cancelling job " + job.id + ".\n");
+            } else {
+                sendText(exchange, 200, job.getStatus() + "\n");
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try {
+            sendText(exchange, 200, metrics.render());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    // Reads at most SolveRequest.MAX_BODY_BYTES, checking Content-Length first when the client sent one
+    private static String readBody(HttpExchange exchange, InputStream in) throws IOException {
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (contentLength != null && Long.parseLong(contentLength.trim()) > SolveRequest.MAX_BODY_BYTES) {
+            throw new IllegalArgumentException(String.format("Error: Config body is larger than %d bytes.", SolveRequest.MAX_BODY_BYTES));
+        }
+        byte[] body = in.readNBytes(SolveRequest.MAX_BODY_BYTES + 1);
+        if (body.length > SolveRequest.MAX_BODY_BYTES) {
+            throw new IllegalArgumentException(String.format("Error: Config body is larger than %d bytes.", SolveRequest.MAX_BODY_BYTES));
+        }
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static void sendText(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(URI uri) {
+        Map<String, String> query = new HashMap<>();
+        if (uri.getRawQuery() == null) {
+            return query;
+        }
+        for (String pair : uri.getRawQuery().split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                query.put(pair.substring(0, eq), pair.substring(eq + 1));
+            }
+        }
+        return query;
+    }
+
+    // Virtual threads need JDK 21; on older runtimes fall back to a cached pool so the service still runs
+    static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            System.out.println("Virtual threads unavailable on this JVM, using platform threads.");
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    // Usage: SolverService [port] [maxConcurrent] [queueCapacity] [defaultTimeoutMillis]
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int maxConcurrent = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int queueCapacity = args.length > 2 ? Integer.parseInt(args[2]) : 4 * maxConcurrent;
+        long timeoutMillis = args.length > 3 ? Long.parseLong(args[3]) : 30_000L;
+
+        SolverService service = new SolverService(maxConcurrent, queueCapacity, timeoutMillis);
+        service.start(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(service::stop));
+    }
+}
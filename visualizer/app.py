@@ -1,5 +1,9 @@
+import argparse
+import json
+import os
+
 import dash
-from dash import dcc, html
+from dash import dcc, html, Input, Output, State, no_update
 import plotly.graph_objs as go
 import numpy as np
 
@@ -41,6 +45,45 @@ def extract_data(file_path):
 
     return function_name, np.array(x_values), np.array(objective_values)
 
+# Reads the complete JSON-lines records appended to the trajectory file (written by TrajectoryPublisher)
+# since offset. The header's run id is re-read on every call: when it differs from run, the optimizer has
+# started over, so reading restarts at 0 even if the new run already wrote past the old offset.
+# Returns the records, the new offset and the current run id; a partial last line is left for the next read.
+def read_trajectory(file_path, offset, run):
+    try:
+        with open(file_path, 'rb') as f:
+            first = f.readline()
+            if not first.endswith(b'\n'):
+                return [], 0, None  # a new run that has not finished its header yet
+            try:
+                current_run = json.loads(first).get('run')
+            except ValueError:
+                return [], 0, None
+            if current_run != run:
+                offset = 0
+
+            f.seek(0, os.SEEK_END)
+            size = f.tell()
+            if size < offset:
+                offset = 0  # truncated by a writer that gives no run id
+            if size == offset:
+                return [], offset, current_run
+            f.seek(offset)
+            chunk = f.read(size - offset)
+    except OSError:
+        return [], offset, run
+
+    complete = chunk.rfind(b'\n') + 1
+    records = []
+    for line in chunk[:complete].split(b'\n'):
+        if not line.strip():
+            continue
+        try:
+            records.append(json.loads(line))
+        except ValueError:
+            continue  # skip a damaged record rather than failing every later poll
+    return records, offset + complete, current_run
+
 # Create 2D contour plot
 def create_2d_contour_figure(x_values, function_name):
     if function_name == 'Quadratic':
@@ -159,16 +202,9 @@ def create_3d_surface_figure(x_values, objective_values, function_name):
 
     return go.Figure(data=[surface, scatter_points], layout=layout)
 
-# Main function
-def main():
-    file_path = 'data/output.txt'
-    function_name, x_values, objective_values = extract_data(file_path)
-
-    fig_2d = create_2d_contour_figure(x_values, function_name)
-    fig_3d = create_3d_surface_figure(x_values, objective_values, function_name)
-
-    app = dash.Dash(__name__)
-    app.layout = html.Div(
+# Builds the page; extra_children are appended (e.g. the live refresh timer)
+def create_layout(fig_2d, fig_3d, extra_children=()):
+    return html.Div(
         style={"fontFamily": "Times New Roman, Times New Roman", "backgroundColor": "#1f1f1f", "color": "#e0e0e0", "padding": "20px"},
         children=[
             html.H1(
@@ -187,10 +223,97 @@ def main():
                     html.H2('3D Surface', style={"textAlign": "center", "marginBottom": "20px"}),
                     dcc.Graph(id='3d-surface-graph', figure=fig_3d, style={"margin": "auto", "width": "80%"})
                 ]
-            )
+            ),
+            *extra_children
         ]
     )
 
+# Live mode: figures are rebuilt only when a new run starts; otherwise new points are appended with extendData.
+# Each browser session keeps its own read offset in a dcc.Store, so several tabs can follow the same run.
+def create_live_app(trajectory_path, interval_ms):
+    empty = go.Figure(layout=go.Layout(template='plotly_dark', title=dict(text='Waiting for trajectory...', x=0.5)))
+
+    app = dash.Dash(__name__)
+    app.layout = create_layout(empty, empty, extra_children=[
+        html.Div(id='live-status', style={"textAlign": "center", "marginTop": "20px"}),
+        dcc.Interval(id='live-interval', interval=interval_ms),
+        # memory storage starts empty on every page load, so a new tab reads the file from the start once
+        dcc.Store(id='live-state', data={'offset': 0, 'run': None, 'header': None})
+    ])
+
+    @app.callback(
+        Output('2d-contour-graph', 'figure'),
+        Output('2d-contour-graph', 'extendData'),
+        Output('3d-surface-graph', 'figure'),
+        Output('3d-surface-graph', 'extendData'),
+        Output('live-status', 'children'),
+        Output('live-state', 'data'),
+        Input('live-interval', 'n_intervals'),
+        State('live-state', 'data')
+    )
+    def refresh(_, state):
+        records, offset, run = read_trajectory(trajectory_path, state['offset'], state['run'])
+        if offset == state['offset'] and run == state['run']:
+            return no_update, no_update, no_update, no_update, no_update, no_update
+
+        header = state['header'] if run == state['run'] else None
+        # anything before the last header belongs to a previous run
+        header_index = max((i for i, r in enumerate(records) if r.get('type') == 'header'), default=None)
+        if header_index is not None:
+            header = records[header_index]
+            records = records[header_index + 1:]
+        new_state = {'offset': offset, 'run': run, 'header': header}
+
+        iterations = [r for r in records if r.get('type') == 'iteration']
+        end = next((r for r in records if r.get('type') == 'end'), None)
+        if header is None:
+            return no_update, no_update, no_update, no_update, no_update, new_state
+
+        if end is not None:
+            status = f"{header['function']}: {end['status']} ({end['written']} frames, {end['dropped']} dropped)"
+        elif iterations:
+            status = f"{header['function']}: iteration {iterations[-1]['iteration']}, value {iterations[-1]['value']}"
+        else:
+            status = no_update
+
+        x_values = np.array([r['x'][:2] for r in iterations]).reshape(-1, 2)
+        objective_values = np.array([r['value'] for r in iterations])
+
+        if header_index is not None:
+            fig_2d = create_2d_contour_figure(x_values, header['function'])
+            fig_3d = create_3d_surface_figure(x_values, objective_values, header['function'])
+            return fig_2d, no_update, fig_3d, no_update, status, new_state
+
+        if not iterations:
+            return no_update, no_update, no_update, no_update, status, new_state
+
+        # trace 1 is the optimization path in both figures
+        extend_2d = (dict(x=[x_values[:, 0].tolist()], y=[x_values[:, 1].tolist()]), [1])
+        extend_3d = (dict(x=[x_values[:, 0].tolist()], y=[x_values[:, 1].tolist()], z=[objective_values.tolist()]), [1])
+        return no_update, extend_2d, no_update, extend_3d, status, new_state
+
+    return app
+
+# Main function
+def main():
+    parser = argparse.ArgumentParser(description='Function optimization visualizer')
+    parser.add_argument('--live', metavar='TRAJECTORY_FILE',
+                        help='follow a trajectory file written with -Dtrajectory.file instead of reading output.txt')
+    parser.add_argument('--interval', type=int, default=500, help='live refresh interval in milliseconds')
+    args = parser.parse_args()
+
+    if args.live:
+        app = create_live_app(args.live, args.interval)
+    else:
+        file_path = 'data/output.txt'
+        function_name, x_values, objective_values = extract_data(file_path)
+
+        fig_2d = create_2d_contour_figure(x_values, function_name)
+        fig_3d = create_3d_surface_figure(x_values, objective_values, function_name)
+
+        app = dash.Dash(__name__)
+        app.layout = create_layout(fig_2d, fig_3d)
+
     app.run(debug=True)
 
 if __name__ == '__main__':